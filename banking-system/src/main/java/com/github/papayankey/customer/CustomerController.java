@@ -20,6 +20,12 @@ public class CustomerController {
         return new ResponseEntity<>(createdCustomer, HttpStatus.CREATED);
     }
 
+    @GetMapping(path = "/stats")
+    public ResponseEntity<CustomerStats> getStatistics() {
+        CustomerStats stats = customerService.getStatistics();
+        return new ResponseEntity<>(stats, HttpStatus.OK);
+    }
+
     @GetMapping(path = "/{id}")
     public ResponseEntity<Customer> getCustomer(@PathVariable Integer id) {
         Customer customer = customerService.getCustomer(id);
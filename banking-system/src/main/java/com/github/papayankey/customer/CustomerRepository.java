@@ -3,10 +3,16 @@ package com.github.papayankey.customer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Integer> {
@@ -34,4 +40,17 @@ public interface CustomerRepository extends JpaRepository<Customer, Integer> {
             "SET last_name = :lastName " +
             "WHERE id = :id", nativeQuery = true)
     Integer updateCustomerByLastName(@Param("id") Integer id, @Param("lastName") String lastName);
+
+    @Query(value = "" +
+            "SELECT COALESCE(last_name, '') " +
+            "FROM customers " +
+            "WHERE id = :id " +
+            "FOR UPDATE", nativeQuery = true)
+    Optional<String> lockLastNameById(@Param("id") Integer id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "" +
+            "SELECT last_name " +
+            "FROM customers", nativeQuery = true)
+    Stream<String> streamLastNames();
 }
@@ -3,17 +3,43 @@ package com.github.papayankey.customer;
 import com.github.papayankey.exceptions.CustomerNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class CustomerService {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private CustomerStatistics customerStatistics;
+
+    @Transactional(readOnly = true)
+    public void loadStatistics() {
+        try (Stream<String> lastNames = customerRepository.streamLastNames()) {
+            customerStatistics.rebuild(lastNames);
+        }
+    }
+
+    @Transactional
     public Customer createCustomer(Customer customer) {
-        return customerRepository.save(customer);
+        Optional<String> previousLastName = customer.getId() != null
+                ? customerRepository.lockLastNameById(customer.getId())
+                : Optional.empty();
+
+        Customer savedCustomer = customerRepository.save(customer);
+
+        if (previousLastName.isPresent()) {
+            afterCommit(() -> customerStatistics.recordUpdated(previousLastName.get(), savedCustomer.getLastName()));
+        } else {
+            afterCommit(() -> customerStatistics.recordCreated(savedCustomer.getLastName()));
+        }
+        return savedCustomer;
     }
 
     public Customer getCustomer(Integer id) {
@@ -23,10 +49,15 @@ public class CustomerService {
         });
     }
 
+    @Transactional
     public String updateCustomer(Integer id, Customer customer) {
         String firstName = customer.getFirstName();
         String lastName = customer.getLastName();
 
+        String previousLastName = lastName != null
+                ? customerRepository.lockLastNameById(id).orElse(null)
+                : null;
+
         Integer count = 0;
         if (firstName != null && lastName != null) {
             count = customerRepository.updateCustomer(id, firstName, lastName);
@@ -40,10 +71,28 @@ public class CustomerService {
             throw new CustomerNotFoundException(id);
         }
 
+        afterCommit(() -> customerStatistics.recordUpdated(previousLastName, lastName));
         return String.format("Customer with id %d update successful", id);
     }
 
     public List<Customer> getCustomers() {
         return customerRepository.findAll();
     }
+
+    public CustomerStats getStatistics() {
+        return customerStatistics.snapshot();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,167 @@
+package com.github.papayankey.customer;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * In-memory customer counters, kept up to date by {@link CustomerService} on every
+ * create and update so that the stats endpoint never has to scan the customers table.
+ */
+@Component
+public class CustomerStatistics {
+    static final String UNKNOWN_INITIAL = "#";
+
+    private final AtomicReference<Counts> counts = new AtomicReference<>(new Counts());
+    private final Activity created;
+    private final Activity updated;
+
+    public CustomerStatistics() {
+        this(Clock.systemUTC());
+    }
+
+    CustomerStatistics(Clock clock) {
+        this.created = new Activity(clock);
+        this.updated = new Activity(clock);
+    }
+
+    /**
+     * Recounts from the given last names and publishes the result in one swap, so
+     * readers never see a partially rebuilt table.
+     */
+    public void rebuild(Stream<String> lastNames) {
+        Counts rebuilt = new Counts();
+        lastNames.forEach(rebuilt::add);
+        counts.set(rebuilt);
+    }
+
+    public void recordCreated(String lastName) {
+        counts.get().add(lastName);
+        created.increment();
+    }
+
+    public void recordUpdated(String previousLastName, String lastName) {
+        counts.get().move(previousLastName, lastName);
+        updated.increment();
+    }
+
+    public CustomerStats snapshot() {
+        Counts current = counts.get();
+        Map<String, Long> lastNameInitials = new TreeMap<>();
+        current.initials.forEach((initial, count) -> {
+            long value = count.sum();
+            if (value > 0) {
+                lastNameInitials.put(initial, value);
+            }
+        });
+
+        return CustomerStats.builder()
+                .totalCustomers(current.total.sum())
+                .lastNameInitials(lastNameInitials)
+                .createdLastMinute(created.lastMinute.sum())
+                .createdLastHour(created.lastHour.sum())
+                .updatedLastMinute(updated.lastMinute.sum())
+                .updatedLastHour(updated.lastHour.sum())
+                .build();
+    }
+
+    static String initialOf(String lastName) {
+        if (lastName == null || lastName.isBlank()) {
+            return UNKNOWN_INITIAL;
+        }
+        int codePoint = lastName.strip().codePointAt(0);
+        return Character.isLetter(codePoint)
+                ? new String(Character.toChars(Character.toUpperCase(codePoint)))
+                : UNKNOWN_INITIAL;
+    }
+
+    private static class Counts {
+        private final LongAdder total = new LongAdder();
+        private final Map<String, LongAdder> initials = new ConcurrentHashMap<>();
+
+        void add(String lastName) {
+            total.increment();
+            initial(lastName).increment();
+        }
+
+        void move(String previousLastName, String lastName) {
+            if (!initialOf(previousLastName).equals(initialOf(lastName))) {
+                initial(previousLastName).decrement();
+                initial(lastName).increment();
+            }
+        }
+
+        private LongAdder initial(String lastName) {
+            return initials.computeIfAbsent(initialOf(lastName), key -> new LongAdder());
+        }
+    }
+
+    /**
+     * Trailing one-minute and one-hour event counts, accurate to one second and ten
+     * seconds respectively.
+     */
+    private static class Activity {
+        private final RecentCounter lastMinute;
+        private final RecentCounter lastHour;
+
+        Activity(Clock clock) {
+            this.lastMinute = new RecentCounter(clock, 1_000, 60);
+            this.lastHour = new RecentCounter(clock, 10_000, 360);
+        }
+
+        void increment() {
+            lastMinute.increment();
+            lastHour.increment();
+        }
+    }
+
+    /**
+     * Events in the trailing window of {@code buckets * bucketMillis}, held in a ring of
+     * fixed-width buckets. The oldest bucket is dropped as soon as the window's start
+     * passes into it, so the count covers at most one bucket less than the full window.
+     */
+    private static class RecentCounter {
+        private final Clock clock;
+        private final long bucketMillis;
+        private final long[] counts;
+        private final long[] stamps;
+
+        RecentCounter(Clock clock, long bucketMillis, int buckets) {
+            this.clock = clock;
+            this.bucketMillis = bucketMillis;
+            this.counts = new long[buckets];
+            this.stamps = new long[buckets];
+        }
+
+        synchronized void increment() {
+            long bucket = currentBucket();
+            int index = (int) (bucket % counts.length);
+            if (stamps[index] != bucket) {
+                stamps[index] = bucket;
+                counts[index] = 0;
+            }
+            counts[index]++;
+        }
+
+        synchronized long sum() {
+            long bucket = currentBucket();
+            long sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (bucket - stamps[i] < counts.length) {
+                    sum += counts[i];
+                }
+            }
+            return sum;
+        }
+
+        private long currentBucket() {
+            return clock.millis() / bucketMillis;
+        }
+    }
+}
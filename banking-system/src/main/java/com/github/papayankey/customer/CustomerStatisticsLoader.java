@@ -0,0 +1,20 @@
+package com.github.papayankey.customer;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads {@link CustomerStatistics} once all beans are ready but before the web server
+ * starts accepting requests, so no create or update can race the initial count.
+ */
+@Component
+public class CustomerStatisticsLoader implements SmartInitializingSingleton {
+    @Autowired
+    private CustomerService customerService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        customerService.loadStatistics();
+    }
+}
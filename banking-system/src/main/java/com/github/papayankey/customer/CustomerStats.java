@@ -0,0 +1,21 @@
+package com.github.papayankey.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CustomerStats {
+    private long totalCustomers;
+    private Map<String, Long> lastNameInitials;
+    private long createdLastMinute;
+    private long createdLastHour;
+    private long updatedLastMinute;
+    private long updatedLastHour;
+}
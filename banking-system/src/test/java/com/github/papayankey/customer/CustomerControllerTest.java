@@ -12,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -84,6 +85,26 @@ class CustomerControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("should get customer statistics")
+    void shouldReturnStatistics() throws Exception {
+        CustomerStats stats = CustomerStats.builder()
+                .totalCustomers(3)
+                .lastNameInitials(Map.of("L", 1L, "Y", 2L))
+                .createdLastMinute(1)
+                .createdLastHour(3)
+                .build();
+        when(customerService.getStatistics()).thenReturn(stats);
+
+        mockMvc.perform(
+                        get("/customers/stats")
+                                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCustomers", is(3)))
+                .andExpect(jsonPath("$.lastNameInitials.Y", is(2)))
+                .andExpect(jsonPath("$.createdLastHour", is(3)));
+    }
+
     @Nested
     @DisplayName("should get a customer")
     class ShouldGetCustomer {
@@ -7,6 +7,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -70,4 +74,49 @@ class CustomerRepositoryTest {
             assertThat(updatedCustomer.getLastName()).isEqualTo(lastName);
         }
     }
+
+    @Test
+    @DisplayName("should stream all customer lastnames")
+    void shouldStreamLastNames() {
+        entityManager.persist(Customer.builder().firstName("Michael").lastName("Park").build());
+        entityManager.persist(Customer.builder().firstName("Dominic").lastName("Yankey").build());
+        entityManager.flush();
+
+        List<String> lastNames;
+        try (Stream<String> stream = customerRepository.streamLastNames()) {
+            lastNames = stream.collect(Collectors.toList());
+        }
+
+        assertThat(lastNames).containsExactlyInAnyOrder("Park", "Yankey");
+    }
+
+    @Nested
+    @DisplayName("should lock customer lastname")
+    class LockLastName {
+        @Test
+        @DisplayName("given id")
+        void shouldLockLastNameById() {
+            Customer customer = Customer.builder().firstName("Rebecca").lastName("Attuah").build();
+            int customerId = (int) entityManager.persistAndGetId(customer);
+            entityManager.flush();
+
+            assertThat(customerRepository.lockLastNameById(customerId)).contains("Attuah");
+        }
+
+        @Test
+        @DisplayName("as empty string given no lastname")
+        void shouldReturnEmptyStringGivenNoLastName() {
+            Customer customer = Customer.builder().firstName("Rebecca").build();
+            int customerId = (int) entityManager.persistAndGetId(customer);
+            entityManager.flush();
+
+            assertThat(customerRepository.lockLastNameById(customerId)).contains("");
+        }
+
+        @Test
+        @DisplayName("as empty given that id does not exist")
+        void shouldReturnEmptyGivenUnknownId() {
+            assertThat(customerRepository.lockLastNameById(404)).isEmpty();
+        }
+    }
 }
\ No newline at end of file
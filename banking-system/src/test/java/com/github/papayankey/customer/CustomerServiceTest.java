@@ -9,6 +9,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -16,8 +17,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -29,6 +32,9 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Spy
+    private CustomerStatistics customerStatistics = new CustomerStatistics();
+
     @Autowired
     @InjectMocks
     private CustomerService customerService;
@@ -45,6 +51,57 @@ class CustomerServiceTest {
         assertThat(customerService.createCustomer(customer)).returns("John", Customer::getFirstName);
     }
 
+    @Nested
+    @DisplayName("should record customer statistics")
+    class shouldRecordStatistics {
+        @Test
+        @DisplayName("given a new customer")
+        void shouldCountNewCustomer() {
+            Customer customer = Customer.builder().firstName("John").lastName("Doe").build();
+
+            when(customerRepository.save(customer)).thenReturn(Customer.builder().Id(1).firstName("John").lastName("Doe").build());
+
+            customerService.createCustomer(customer);
+
+            CustomerStats stats = customerService.getStatistics();
+            assertThat(stats.getTotalCustomers()).isEqualTo(1);
+            assertThat(stats.getLastNameInitials()).containsExactly(entry("D", 1L));
+            assertThat(stats.getCreatedLastMinute()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("given a save with an existing id as an update")
+        void shouldNotCountExistingCustomer() {
+            Customer customer = Customer.builder().Id(1).firstName("John").lastName("Smith").build();
+
+            when(customerRepository.streamLastNames()).thenReturn(Stream.of("Doe"));
+            when(customerRepository.lockLastNameById(1)).thenReturn(Optional.of("Doe"));
+            when(customerRepository.save(customer)).thenReturn(customer);
+
+            customerService.loadStatistics();
+            customerService.createCustomer(customer);
+
+            CustomerStats stats = customerService.getStatistics();
+            assertThat(stats.getTotalCustomers()).isEqualTo(1);
+            assertThat(stats.getLastNameInitials()).containsExactly(entry("S", 1L));
+            assertThat(stats.getCreatedLastMinute()).isZero();
+            assertThat(stats.getUpdatedLastMinute()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("should load statistics from existing customers")
+    void shouldLoadStatistics() {
+        when(customerRepository.streamLastNames()).thenReturn(Stream.of("Doe", "Dickens", "Yankey"));
+
+        customerService.loadStatistics();
+
+        CustomerStats stats = customerService.getStatistics();
+        assertThat(stats.getTotalCustomers()).isEqualTo(3);
+        assertThat(stats.getLastNameInitials()).containsExactly(entry("D", 2L), entry("Y", 1L));
+        assertThat(stats.getCreatedLastHour()).isZero();
+    }
+
     @Nested
     @DisplayName("should get all customers")
     class shouldRetrieveCustomers {
@@ -161,6 +218,25 @@ class CustomerServiceTest {
             assertThat(stringCaptor.getValue()).isEqualTo("Luther");
         }
 
+        @Test
+        @DisplayName("and move statistics to the new lastname initial")
+        void shouldUpdateStatisticsGivenLastName() {
+            int customerId = 4;
+            Customer customer = Customer.builder().lastName("Luther").build();
+
+            when(customerRepository.streamLastNames()).thenReturn(Stream.of("King", "Kwame"));
+            when(customerRepository.lockLastNameById(customerId)).thenReturn(Optional.of("King"));
+            when(customerRepository.updateCustomerByLastName(customerId, customer.getLastName())).thenReturn(1);
+
+            customerService.loadStatistics();
+            customerService.updateCustomer(customerId, customer);
+
+            CustomerStats stats = customerService.getStatistics();
+            assertThat(stats.getTotalCustomers()).isEqualTo(2);
+            assertThat(stats.getLastNameInitials()).containsExactly(entry("K", 1L), entry("L", 1L));
+            assertThat(stats.getUpdatedLastMinute()).isEqualTo(1);
+        }
+
         @Test
         @DisplayName("given that id does not exist then throw exception")
         void shouldThrowExceptionWhenIdDoesNotExist() {
@@ -0,0 +1,107 @@
+package com.github.papayankey.customer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class CustomerStatisticsTest {
+
+    @Test
+    @DisplayName("should group lastnames by uppercase initial")
+    void shouldGroupByInitial() {
+        CustomerStatistics statistics = new CustomerStatistics();
+
+        statistics.rebuild(Stream.of("yankey", "Young", "Attuah", " ", "1st"));
+
+        CustomerStats stats = statistics.snapshot();
+        assertThat(stats.getTotalCustomers()).isEqualTo(5);
+        assertThat(stats.getLastNameInitials()).containsExactly(entry("#", 2L), entry("A", 1L), entry("Y", 2L));
+    }
+
+    @Test
+    @DisplayName("should only count creations within the recent window")
+    void shouldExpireRecentCreations() {
+        MutableClock clock = new MutableClock(Instant.parse("2022-01-10T10:00:00Z"));
+        CustomerStatistics statistics = new CustomerStatistics(clock);
+        statistics.recordCreated("Park");
+        clock.advance(Duration.ofMinutes(5));
+        statistics.recordCreated("Jordan");
+
+        assertThat(statistics.snapshot().getCreatedLastMinute()).isEqualTo(1);
+        assertThat(statistics.snapshot().getCreatedLastHour()).isEqualTo(2);
+
+        clock.advance(Duration.ofHours(1));
+
+        assertThat(statistics.snapshot().getCreatedLastHour()).isZero();
+        assertThat(statistics.snapshot().getTotalCustomers()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should count the trailing minute across a minute boundary")
+    void shouldCountTrailingMinute() {
+        MutableClock clock = new MutableClock(Instant.parse("2022-01-10T10:00:50Z"));
+        CustomerStatistics statistics = new CustomerStatistics(clock);
+        statistics.recordCreated("Park");
+        statistics.recordUpdated("Park", "Jordan");
+
+        clock.advance(Duration.ofSeconds(20));
+
+        assertThat(statistics.snapshot().getCreatedLastMinute()).isEqualTo(1);
+        assertThat(statistics.snapshot().getUpdatedLastMinute()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(40));
+
+        assertThat(statistics.snapshot().getCreatedLastMinute()).isZero();
+        assertThat(statistics.snapshot().getCreatedLastHour()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should replace counts recorded before a rebuild")
+    void shouldReplaceCountsOnRebuild() {
+        CustomerStatistics statistics = new CustomerStatistics();
+        statistics.recordCreated("Park");
+
+        statistics.rebuild(Stream.of("Yankey", "Young"));
+
+        CustomerStats stats = statistics.snapshot();
+        assertThat(stats.getTotalCustomers()).isEqualTo(2);
+        assertThat(stats.getLastNameInitials()).containsExactly(entry("Y", 2L));
+        assertThat(stats.getCreatedLastMinute()).isEqualTo(1);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}